@@ -1,9 +1,12 @@
 package com.example.quizapp;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import com.example.quizapp.config.StartupTimingListener;
 @SpringBootApplication
 public class QuizAppApplication {
     public static void main(String[] args) {
-        SpringApplication.run(QuizAppApplication.class, args);
+        SpringApplication application = new SpringApplication(QuizAppApplication.class);
+        application.addListeners(new StartupTimingListener());
+        application.run(args);
     }
-}
\ No newline at end of file
+}
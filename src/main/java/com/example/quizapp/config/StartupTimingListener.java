@@ -0,0 +1,79 @@
+package com.example.quizapp.config;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationContextInitializedEvent;
+import org.springframework.boot.context.event.ApplicationEnvironmentPreparedEvent;
+import org.springframework.boot.context.event.ApplicationPreparedEvent;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.boot.context.event.ApplicationStartingEvent;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.web.context.support.ServletRequestHandledEvent;
+
+/**
+ * Records how long each startup phase took, measured from JVM start, and logs
+ * the breakdown once the application is ready. The first handled request is
+ * logged as well so that time-to-first-request can be tracked across deployments.
+ * <p>
+ * Registered from {@code main} rather than as a bean so that it also sees the
+ * events published before the application context exists.
+ */
+public class StartupTimingListener implements ApplicationListener<ApplicationEvent> {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupTimingListener.class);
+
+    private final AtomicBoolean firstRequestHandled = new AtomicBoolean();
+
+    private final Map<String, Long> phases = new LinkedHashMap<>();
+
+    @Override
+    public void onApplicationEvent(ApplicationEvent event) {
+        if (event instanceof ApplicationStartingEvent) {
+            // Time spent before main(): JVM boot, class loading (or CDS mapping)
+            phase("jvm-start");
+        } else if (event instanceof ApplicationEnvironmentPreparedEvent) {
+            phase("environment-prepared");
+        } else if (event instanceof ApplicationContextInitializedEvent) {
+            phase("context-initialized");
+        } else if (event instanceof ApplicationPreparedEvent) {
+            phase("bean-definitions-loaded");
+        } else if (event instanceof ApplicationStartedEvent) {
+            // Context refresh: bean creation, Hibernate metamodel, web server start
+            phase("context-refreshed");
+        } else if (event instanceof ApplicationReadyEvent) {
+            phase("ready");
+            logger.info("Startup phases (ms since previous phase): {}", breakdown());
+        } else if (event instanceof ServletRequestHandledEvent handled
+                && firstRequestHandled.compareAndSet(false, true)) {
+            logger.info("First request {} {} handled {} ms since JVM start ({} ms processing)",
+                    handled.getMethod(), handled.getRequestUrl(), uptimeMillis(), handled.getProcessingTimeMillis());
+        }
+    }
+
+    // Logging is not initialised until the environment is prepared, so phases are only recorded here
+    private synchronized void phase(String name) {
+        phases.put(name, uptimeMillis());
+    }
+
+    private synchronized String breakdown() {
+        StringJoiner joiner = new StringJoiner(", ");
+        long previous = 0;
+        for (Map.Entry<String, Long> entry : phases.entrySet()) {
+            joiner.add(entry.getKey() + "=" + (entry.getValue() - previous));
+            previous = entry.getValue();
+        }
+        return joiner + " (total " + previous + " ms since JVM start)";
+    }
+
+    private static long uptimeMillis() {
+        return ManagementFactory.getRuntimeMXBean().getUptime();
+    }
+}